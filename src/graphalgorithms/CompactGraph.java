@@ -0,0 +1,162 @@
+package graphalgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact, index-based snapshot of a graph.
+ * The vertices are numbered 0..n-1, and the neighbors of vertex i are
+ * targets[offsets[i]] .. targets[offsets[i + 1] - 1] with the matching entries in weights.
+ * Later changes to the original graph are not reflected in the snapshot.
+ */
+public class CompactGraph<V> {
+    // The vertices in index order.
+    private final List<V> vertices;
+    // Maps each vertex to its index.
+    private final Map<V, Integer> index;
+    // Adjacency arrays (every edge is stored in both directions).
+    final int[] offsets;
+    final int[] targets;
+    final int[] weights;
+
+    //-----------------------------------------------------
+
+    /** Construct a snapshot of the specified graph. */
+    public CompactGraph(Graph<V> graph) {
+        this(graph.vertices(), graph.edges());
+    }
+
+    /**
+     * Construct a snapshot with the specified vertices in the specified order and the specified edges.
+     * Pre: The end points of the edges are among the vertices.
+     */
+    public CompactGraph(List<V> vertices, List<Edge<V>> edges) {
+        this.vertices = new ArrayList<>(vertices);
+        index = indexMap(this.vertices);
+
+        int n = this.vertices.size();
+        offsets = new int[n + 1];
+        for (Edge<V> edge : edges) {
+            offsets[index.get(edge.getU()) + 1]++;
+            offsets[index.get(edge.getV()) + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        targets = new int[offsets[n]];
+        weights = new int[offsets[n]];
+        int[] next = new int[n];
+        System.arraycopy(offsets, 0, next, 0, n);
+        for (Edge<V> edge : edges) {
+            int u = index.get(edge.getU());
+            int v = index.get(edge.getV());
+            targets[next[u]] = v;
+            weights[next[u]++] = edge.getWeight();
+            targets[next[v]] = u;
+            weights[next[v]++] = edge.getWeight();
+        }
+        sortRows();
+    }
+
+    private CompactGraph(List<V> vertices, int[] offsets, int[] targets, int[] weights) {
+        this.vertices = vertices;
+        index = indexMap(vertices);
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        sortRows();
+    }
+
+    private static <V> Map<V, Integer> indexMap(List<V> vertices) {
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        return index;
+    }
+
+    /** Sort the neighbors of each vertex by index, so a row is read front to back in memory order. */
+    private void sortRows() {
+        for (int i = 0; i + 1 < offsets.length; i++) {
+            int from = offsets[i];
+            long[] row = new long[offsets[i + 1] - from];
+            for (int k = 0; k < row.length; k++) {
+                row[k] = (long) targets[from + k] << 32 | (weights[from + k] & 0xFFFFFFFFL);
+            }
+            Arrays.sort(row);
+            for (int k = 0; k < row.length; k++) {
+                targets[from + k] = (int) (row[k] >>> 32);
+                weights[from + k] = (int) row[k];
+            }
+        }
+    }
+
+    /**
+     * Return a snapshot of the same graph with the vertices relabeled so that order.get(i) gets index i.
+     * Pre: order is a permutation of the vertices in this snapshot.
+     */
+    public CompactGraph<V> reordered(List<V> order) {
+        assert order.size() == vertexCount();
+        int n = vertexCount();
+        int[] newIndex = new int[n];
+        for (int i = 0; i < n; i++) {
+            newIndex[index.get(order.get(i))] = i;
+        }
+        int[] newOffsets = new int[n + 1];
+        int[] newTargets = new int[targets.length];
+        int[] newWeights = new int[weights.length];
+        for (int i = 0; i < n; i++) {
+            int old = index.get(order.get(i));
+            int degree = degree(old);
+            newOffsets[i + 1] = newOffsets[i] + degree;
+            for (int k = 0; k < degree; k++) {
+                newTargets[newOffsets[i] + k] = newIndex[targets[offsets[old] + k]];
+                newWeights[newOffsets[i] + k] = weights[offsets[old] + k];
+            }
+        }
+        return new CompactGraph<>(new ArrayList<>(order), newOffsets, newTargets, newWeights);
+    }
+
+    /** Return the number of vertices. */
+    public int vertexCount() {
+        return vertices.size();
+    }
+
+    /** Return the number of edges. */
+    public int edgeCount() {
+        return targets.length / 2;
+    }
+
+    /**
+     * Return the vertex with the specified index.
+     * Pre: 0 <= i < vertexCount().
+     */
+    public V vertex(int i) {
+        return vertices.get(i);
+    }
+
+    /** Return the index of the specified vertex, or -1 if the vertex is not in the snapshot. */
+    public int indexOf(V v) {
+        Integer i = index.get(v);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Return the degree of the vertex with the specified index.
+     * Pre: 0 <= i < vertexCount().
+     */
+    public int degree(int i) {
+        return offsets[i + 1] - offsets[i];
+    }
+
+    /**
+     * Return the index of the j'th neighbor of the vertex with the specified index.
+     * Pre: 0 <= i < vertexCount() and 0 <= j < degree(i).
+     */
+    public int neighbor(int i, int j) {
+        return targets[offsets[i] + j];
+    }
+}
@@ -0,0 +1,219 @@
+package graphalgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Parallel delta-stepping single-source shortest paths on a CompactGraph.
+ * The vertices are kept in buckets of width delta by tentative distance. The lowest non-empty bucket
+ * is emptied repeatedly by relaxing the light edges (weight <= delta) of its vertices, and then the
+ * heavy edges of all the vertices that were in it are relaxed once.
+ * Each relaxation step is split over the threads of a pool: a thread lowers distances with
+ * compare-and-set and puts the improved vertices in buckets of its own, so nothing is locked.
+ * Buckets are only created when a vertex is put in them, and empty bucket indices are skipped,
+ * so a small delta with large weights costs neither memory nor time for the gaps.
+ */
+class DeltaStepping {
+    // Marks a vertex without a tentative distance.
+    static final int UNREACHED = Integer.MAX_VALUE;
+    // Vertex lists shorter than this are relaxed on the calling thread only.
+    private static final int PARALLEL_THRESHOLD = 256;
+
+    private final CompactGraph<?> cg;
+    private final int delta;
+    private final ForkJoinPool pool;
+    private final int threads;
+    private final AtomicIntegerArray dist;
+    // buckets.get(t) maps a bucket index to the vertices thread t put in that bucket, and
+    // created[t] lists the bucket indices thread t added since the last call of collectCreated().
+    // A vertex may be in a bucket with an outdated distance; such entries are skipped.
+    private final List<Map<Integer, IntList>> buckets;
+    private final IntList[] created;
+    // Indices of the buckets that may hold vertices. Empty bucket indices are never visited.
+    private final TreeSet<Integer> pending = new TreeSet<>();
+    // The round in which a vertex was last taken into a frontier, and the last bucket round it was settled in.
+    private final int[] frontierMark;
+    private final int[] settledMark;
+
+    //-----------------------------------------------------
+
+    private DeltaStepping(CompactGraph<?> cg, int delta, ForkJoinPool pool) {
+        this.cg = cg;
+        this.delta = delta;
+        this.pool = pool;
+        threads = pool.getParallelism();
+        int n = cg.vertexCount();
+        dist = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            dist.set(i, UNREACHED);
+        }
+        buckets = new ArrayList<>();
+        created = new IntList[threads];
+        for (int t = 0; t < threads; t++) {
+            buckets.add(new HashMap<>());
+            created[t] = new IntList();
+        }
+        frontierMark = new int[n];
+        settledMark = new int[n];
+    }
+
+    /**
+     * Return an array with the shortest path weight from the source to each vertex of the snapshot,
+     * or UNREACHED for the vertices without a path, computed with the threads of the specified pool.
+     * Pre: The source is a vertex in the snapshot, delta is positive, and the weights are not negative.
+     */
+    static int[] shortestPaths(CompactGraph<?> cg, int source, int delta, ForkJoinPool pool) {
+        return new DeltaStepping(cg, delta, pool).run(source);
+    }
+
+    private int[] run(int source) {
+        dist.set(source, 0);
+        addToBucket(0, source, 0);
+        collectCreated();
+        int round = 0;
+        for (int bucketRound = 1; !pending.isEmpty(); bucketRound++) {
+            int i = pending.first();
+            IntList settled = new IntList();
+            IntList frontier;
+            while ((frontier = takeFrontier(i, ++round)).size() > 0) {
+                for (int k = 0; k < frontier.size(); k++) {
+                    int v = frontier.get(k);
+                    if (settledMark[v] != bucketRound) {
+                        settledMark[v] = bucketRound;
+                        settled.add(v);
+                    }
+                }
+                // light edges may put vertices back into bucket i, so it is emptied again
+                relax(frontier, true);
+            }
+            pending.remove(i);
+            // heavy edges only reach later buckets, so they are relaxed once per bucket
+            relax(settled, false);
+        }
+
+        int[] result = new int[cg.vertexCount()];
+        for (int v = 0; v < result.length; v++) {
+            result[v] = dist.get(v);
+        }
+        return result;
+    }
+
+    /** Empty bucket i and return its vertices that still belong to bucket i, each once. */
+    private IntList takeFrontier(int i, int round) {
+        IntList frontier = new IntList();
+        for (Map<Integer, IntList> own : buckets) {
+            IntList bucket = own.remove(i);
+            if (bucket == null) continue;
+            for (int k = 0; k < bucket.size(); k++) {
+                int v = bucket.get(k);
+                if (dist.get(v) / delta == i && frontierMark[v] != round) {
+                    frontierMark[v] = round;
+                    frontier.add(v);
+                }
+            }
+        }
+        return frontier;
+    }
+
+    /** Put the vertex in the specified bucket of thread t. Only thread t calls this with its own t. */
+    private void addToBucket(int t, int v, int bucketIndex) {
+        IntList bucket = buckets.get(t).get(bucketIndex);
+        if (bucket == null) {
+            bucket = new IntList();
+            buckets.get(t).put(bucketIndex, bucket);
+            created[t].add(bucketIndex);
+        }
+        bucket.add(v);
+    }
+
+    /** Move the bucket indices created by the threads into pending. Called between relaxation steps. */
+    private void collectCreated() {
+        for (IntList own : created) {
+            for (int k = 0; k < own.size(); k++) {
+                pending.add(own.get(k));
+            }
+            own.clear();
+        }
+    }
+
+    /** Relax the light or heavy edges of the specified vertices, splitting the vertices over the threads. */
+    private void relax(IntList vertices, boolean light) {
+        int size = vertices.size();
+        int tasks = size < PARALLEL_THRESHOLD ? 1 : threads;
+        forEachTask(tasks, t -> {
+            int to = (int) ((long) size * (t + 1) / tasks);
+            for (int k = (int) ((long) size * t / tasks); k < to; k++) {
+                relaxEdges(vertices.get(k), light, t);
+            }
+        });
+        collectCreated();
+    }
+
+    private void relaxEdges(int u, boolean light, int t) {
+        int du = dist.get(u);
+        for (int k = cg.offsets[u]; k < cg.offsets[u + 1]; k++) {
+            int weight = cg.weights[k];
+            if ((weight <= delta) != light) continue;
+            int w = cg.targets[k];
+            int dw = du + weight;
+            int old = dist.get(w);
+            while (dw < old) {
+                int witness = dist.compareAndExchange(w, old, dw);
+                if (witness == old) {
+                    addToBucket(t, w, dw / delta);
+                    break;
+                }
+                old = witness;
+            }
+        }
+    }
+
+    /** Run body for task numbers 0 .. tasks - 1 in the pool, and wait for all of them. */
+    private void forEachTask(int tasks, IntConsumer body) {
+        if (tasks == 1) {
+            body.accept(0);
+            return;
+        }
+        List<ForkJoinTask<?>> subtasks = new ArrayList<>();
+        for (int t = 0; t < tasks; t++) {
+            int task = t;
+            subtasks.add(ForkJoinTask.adapt(() -> body.accept(task)));
+        }
+        pool.invoke(ForkJoinTask.adapt(() -> {
+            ForkJoinTask.invokeAll(subtasks);
+        }));
+    }
+
+    //-----------------------------------------------------
+
+    /** Growable list of ints, so the buckets hold no boxed values. */
+    private static class IntList {
+        private int[] elements = new int[8];
+        private int size;
+
+        void add(int e) {
+            if (size == elements.length) elements = Arrays.copyOf(elements, 2 * size);
+            elements[size++] = e;
+        }
+
+        int get(int i) {
+            return elements[i];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package graphalgorithms;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Compares delta-stepping with 1, 2, 4, ... threads (up to the number of cores)
+ * against a sequential Dijkstra on the same snapshot of a random graph.
+ * Run with a large heap, e.g. java -Xmx4g graphalgorithms.DeltaSteppingBenchmark [vertices] [edges].
+ * With -ea, building the graph is slow, because EdgeListGraph checks every new edge against all edges.
+ */
+public class DeltaSteppingBenchmark {
+    private static final int MAX_WEIGHT = 100;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        int vertexCount = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int edgeCount = args.length > 1 ? Integer.parseInt(args[1]) : 1_200_000;
+        edgeCount = (int) Math.min(edgeCount, (long) vertexCount * (vertexCount - 1) / 2);
+        Random random = new Random(42);
+        Graph<Integer> g = new EdgeListGraph<>();
+        for (int v = 0; v < vertexCount; v++) {
+            g.addVertex(v);
+        }
+        // a random spanning tree keeps the graph connected; the remaining edges are random,
+        // without self-loops and without repeating an edge (pairs are kept as u * vertexCount + v, u < v)
+        Set<Long> pairs = new HashSet<>();
+        for (int v = 1; v < vertexCount; v++) {
+            int u = random.nextInt(v);
+            pairs.add((long) u * vertexCount + v);
+            g.addEdge(u, v, 1 + random.nextInt(MAX_WEIGHT));
+        }
+        while (pairs.size() < edgeCount) {
+            int u = random.nextInt(vertexCount);
+            int v = random.nextInt(vertexCount);
+            if (u != v && pairs.add((long) Math.min(u, v) * vertexCount + Math.max(u, v))) {
+                g.addEdge(u, v, 1 + random.nextInt(MAX_WEIGHT));
+            }
+        }
+        CompactGraph<Integer> cg = new CompactGraph<>(g);
+        int delta = Math.max(1, MAX_WEIGHT / Math.max(1, 2 * edgeCount / vertexCount));
+
+        int[] expected = dijkstra(cg, 0);
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            dijkstra(cg, 0);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%d vertices, %d edges, delta %d, %d cores%n",
+                vertexCount, edgeCount, delta, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-24s %10.1f ms%n", "Dijkstra", best / 1e6);
+
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            try {
+                if (!Arrays.equals(expected, DeltaStepping.shortestPaths(cg, 0, delta, pool))) {
+                    throw new RuntimeException("Delta-stepping and Dijkstra disagree");
+                }
+                best = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    DeltaStepping.shortestPaths(cg, 0, delta, pool);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+                System.out.printf("%-24s %10.1f ms%n", "Delta-stepping, " + threads + " thr.", best / 1e6);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    /** Sequential Dijkstra on primitive arrays, as the baseline. */
+    private static int[] dijkstra(CompactGraph<?> cg, int source) {
+        int[] dist = new int[cg.vertexCount()];
+        Arrays.fill(dist, DeltaStepping.UNREACHED);
+        dist[source] = 0;
+        // queue entries are encoded as (distance << 32 | vertex)
+        Queue<Long> q = new PriorityQueue<>();
+        q.add((long) source);
+        while (!q.isEmpty()) {
+            long entry = q.remove();
+            int u = (int) entry;
+            if ((int) (entry >>> 32) > dist[u]) continue;
+            for (int k = cg.offsets[u]; k < cg.offsets[u + 1]; k++) {
+                int w = cg.targets[k];
+                int dw = dist[u] + cg.weights[k];
+                if (dw < dist[w]) {
+                    dist[w] = dw;
+                    q.add((long) dw << 32 | w);
+                }
+            }
+        }
+        return dist;
+    }
+}
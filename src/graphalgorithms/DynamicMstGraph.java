@@ -0,0 +1,271 @@
+package graphalgorithms;
+
+import java.util.*;
+
+/**
+ * Graph that wraps another graph and keeps a minimum spanning forest of it up to date.
+ * All changes must go through this graph; the forest is updated on every addition and removal,
+ * so mst() and mstWeight() never recompute the whole forest.
+ */
+public class DynamicMstGraph<V> implements Graph<V> {
+    // The wrapped graph.
+    private final Graph<V> graph;
+    // Adjacency lists of the forest: the forest edges incident to each vertex.
+    private final Map<V, List<Edge<V>>> forest;
+    // Total weight of the forest edges.
+    private int mstWeight;
+
+    //-----------------------------------------------------
+
+    /**
+     * Construct a DynamicMstGraph wrapping the specified graph.
+     * The initial forest is found with Kruskal's algorithm.
+     */
+    public DynamicMstGraph(Graph<V> graph) {
+        this.graph = graph;
+        forest = new LinkedHashMap<>();
+        for (V v : graph.vertices()) {
+            forest.put(v, new ArrayList<>());
+        }
+        List<Edge<V>> edges = graph.edges();
+        edges.sort(Comparator.comparingInt(Edge::getWeight));
+        Map<V, V> parent = new HashMap<>();
+        for (Edge<V> e : edges) {
+            V uRoot = find(parent, e.getU());
+            V vRoot = find(parent, e.getV());
+            if (!uRoot.equals(vRoot)) {
+                parent.put(uRoot, vRoot);
+                addForestEdge(e);
+            }
+        }
+    }
+
+    private static <V> V find(Map<V, V> parent, V v) {
+        V root = v;
+        while (parent.containsKey(root)) root = parent.get(root);
+        while (!v.equals(root)) {
+            V next = parent.get(v);
+            parent.put(v, root);
+            v = next;
+        }
+        return root;
+    }
+
+    /** Return a list with the edges in the current minimum spanning forest. */
+    public List<Edge<V>> mst() {
+        List<Edge<V>> t = new ArrayList<>();
+        for (Map.Entry<V, List<Edge<V>>> entry : forest.entrySet()) {
+            for (Edge<V> e : entry.getValue()) {
+                // every edge is in two lists; report it from its U end only
+                if (e.getU().equals(entry.getKey())) t.add(e);
+            }
+        }
+        return t;
+    }
+
+    /** Return the total weight of the current minimum spanning forest. */
+    public int mstWeight() {
+        return mstWeight;
+    }
+
+    //-----------------------------------------------------
+
+    /** Return a list with the vertices in the graph. */
+    @Override
+    public List<V> vertices() {
+        return graph.vertices();
+    }
+
+    /** Return a list with the edges in the graph. */
+    @Override
+    public List<Edge<V>> edges() {
+        return graph.edges();
+    }
+
+    /**
+     * Return a list with the neighbors of the specified vertex.
+     * Pre: The vertex is in the graph.
+     */
+    @Override
+    public List<V> neighbors(V v) {
+        return graph.neighbors(v);
+    }
+
+    /**
+     * Return the degree for the specified vertex.
+     * Pre: The vertex is in the graph.
+     */
+    @Override
+    public int degree(V v) {
+        return graph.degree(v);
+    }
+
+    /**
+     * Return the incident edges to the specified vertex.
+     * Pre: The vertex is in the graph.
+     */
+    @Override
+    public List<Edge<V>> incidentEdges(V v) {
+        return graph.incidentEdges(v);
+    }
+
+    /**
+     * Return true, if the specified vertices are neighbors.
+     * Pre: The vertices are vertices in the graph.
+     */
+    @Override
+    public boolean areAdjacent(V u, V v) {
+        return graph.areAdjacent(u, v);
+    }
+
+    /** Print the vertices and the edges, followed by the current minimum spanning forest. */
+    @Override
+    public void printGraph() {
+        graph.printGraph();
+        System.out.println("MST: " + mst() + " (w:" + mstWeight + ")");
+    }
+
+    /**
+     * Add a vertex to the graph.
+     * The vertex also becomes a tree of its own in the forest.
+     * Pre: The vertex is not in the graph before this addition.
+     */
+    @Override
+    public void addVertex(V v) {
+        graph.addVertex(v);
+        forest.put(v, new ArrayList<>());
+    }
+
+    /**
+     * Add an edge with the specified weight between the specified vertices to the graph.
+     * If the vertices are in the same tree, the edge replaces the heaviest edge on the tree path
+     * between them, if that edge is heavier.
+     * Pre: Before addition, the vertices are in the graph, and the edge is not in the graph.
+     * Pre: The weight is not negative.
+     */
+    @Override
+    public Edge<V> addEdge(V u, V v, int weight) {
+        Edge<V> edge = graph.addEdge(u, v, weight);
+        List<Edge<V>> path = forestPath(u, v);
+        if (path == null) {
+            addForestEdge(edge);
+        } else {
+            Edge<V> heaviest = null;
+            for (Edge<V> e : path) {
+                if (heaviest == null || e.getWeight() > heaviest.getWeight()) heaviest = e;
+            }
+            if (heaviest != null && heaviest.getWeight() > weight) {
+                removeForestEdge(heaviest);
+                addForestEdge(edge);
+            }
+        }
+        return edge;
+    }
+
+    /**
+     * Add an edge with weight 0 between the specified vertices to the graph.
+     * The forest is updated as in addEdge(u, v, weight).
+     * Pre: Before addition, the vertices are in the graph, and the edge is not in the graph.
+     */
+    @Override
+    public Edge<V> addEdge(V u, V v) {
+        return addEdge(u, v, 0);
+    }
+
+    /**
+     * Remove the specified vertex from the graph.
+     * The vertex is also removed from the forest, where it is a tree of its own.
+     * Pre: The vertex is in the graph, and the vertex has no incident edges.
+     */
+    @Override
+    public void removeVertex(V v) {
+        graph.removeVertex(v);
+        forest.remove(v);
+    }
+
+    /**
+     * Remove the edge between the specified vertices from the graph.
+     * If the edge is in the forest, the lightest remaining edge reconnecting the two halves
+     * of its tree takes its place.
+     * Pre: The vertices are vertices in the graph,
+     *   and The graph has an edge between the vertices.
+     */
+    @Override
+    public void removeEdge(V u, V v) {
+        graph.removeEdge(u, v);
+        Edge<V> temp = new Edge<>(u, v);
+        Edge<V> removed = null;
+        for (Edge<V> e : forest.get(u)) {
+            if (e.equals(temp)) removed = e;
+        }
+        if (removed == null) return;
+
+        removeForestEdge(removed);
+        Set<V> uSide = forestComponent(u);
+        Edge<V> replacement = null;
+        for (Edge<V> e : graph.edges()) {
+            if (uSide.contains(e.getU()) != uSide.contains(e.getV())
+                    && (replacement == null || e.getWeight() < replacement.getWeight())) {
+                replacement = e;
+            }
+        }
+        if (replacement != null) addForestEdge(replacement);
+    }
+
+    //-----------------------------------------------------
+
+    private void addForestEdge(Edge<V> e) {
+        forest.get(e.getU()).add(e);
+        forest.get(e.getV()).add(e);
+        mstWeight += e.getWeight();
+    }
+
+    private void removeForestEdge(Edge<V> e) {
+        forest.get(e.getU()).remove(e);
+        forest.get(e.getV()).remove(e);
+        mstWeight -= e.getWeight();
+    }
+
+    /** Return the forest edges on the path from u to v, or null if u and v are in different trees. */
+    private List<Edge<V>> forestPath(V u, V v) {
+        Map<V, Edge<V>> reachedBy = new HashMap<>();
+        Deque<V> stack = new ArrayDeque<>();
+        reachedBy.put(u, null);
+        stack.push(u);
+        while (!stack.isEmpty() && !reachedBy.containsKey(v)) {
+            V x = stack.pop();
+            for (Edge<V> e : forest.get(x)) {
+                V y = e.getU().equals(x) ? e.getV() : e.getU();
+                if (!reachedBy.containsKey(y)) {
+                    reachedBy.put(y, e);
+                    stack.push(y);
+                }
+            }
+        }
+        if (!reachedBy.containsKey(v)) return null;
+
+        List<Edge<V>> path = new ArrayList<>();
+        for (V x = v; !x.equals(u); ) {
+            Edge<V> e = reachedBy.get(x);
+            path.add(e);
+            x = e.getU().equals(x) ? e.getV() : e.getU();
+        }
+        return path;
+    }
+
+    /** Return the vertices in the same tree of the forest as v. */
+    private Set<V> forestComponent(V v) {
+        Set<V> component = new HashSet<>();
+        Deque<V> stack = new ArrayDeque<>();
+        component.add(v);
+        stack.push(v);
+        while (!stack.isEmpty()) {
+            V x = stack.pop();
+            for (Edge<V> e : forest.get(x)) {
+                V y = e.getU().equals(x) ? e.getV() : e.getU();
+                if (component.add(y)) stack.push(y);
+            }
+        }
+        return component;
+    }
+}
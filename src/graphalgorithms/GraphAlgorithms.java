@@ -1,6 +1,7 @@
 package graphalgorithms;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class GraphAlgorithms {
     public static void main(String[] args) {
@@ -44,6 +45,10 @@ public class GraphAlgorithms {
 //        System.out.println(hasGraphPath(g, 123, 15));
 //        System.out.println();
 
+        System.out.println("Multi-source BFS distances from 123 and 15:");
+        System.out.println(multiSourceBfs(g, List.of(123, 15)));
+        System.out.println();
+
         System.out.println("Minimum spanning tree:");
         System.out.println(mst(g));
         System.out.println();
@@ -51,6 +56,21 @@ public class GraphAlgorithms {
         System.out.println("Dijkstra starting in 123:");
         System.out.println(dijkstra(g, 123));
         System.out.println();
+
+        System.out.println("Delta-stepping starting in 123:");
+        System.out.println(deltaStepping(g, 123));
+        System.out.println();
+
+        System.out.println("Sharded shortest paths (2 shards) starting in 123:");
+        System.out.println(ShardedTraversal.sssp(GraphPartition.labelPropagation(g, 2, 10), 123));
+        System.out.println();
+
+        System.out.println("Minimum spanning tree after removing 6-66 and adding 15-123:");
+        DynamicMstGraph<Integer> dg = new DynamicMstGraph<>(g);
+        dg.removeEdge(6, 66);
+        dg.addEdge(15, 123, 1);
+        System.out.println(dg.mst() + " (w:" + dg.mstWeight() + ")");
+        System.out.println();
     }
 
     /**
@@ -95,18 +115,124 @@ public class GraphAlgorithms {
         return null;
     }
 
+    /**
+     * Return a map containing (source, distances) pairs for each of the specified source vertices,
+     * where distances maps each vertex reachable from the source to its number of edges from the source.
+     * All the sources are traversed together in one breath-first pass over the graph.
+     * Throw exception if a source vertex is not in the graph.
+     */
+    public static <V> Map<V, Map<V, Integer>> multiSourceBfs(Graph<V> graph, List<V> sources) {
+        CompactGraph<V> cg = new CompactGraph<>(graph);
+        int[] indices = new int[sources.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = cg.indexOf(sources.get(i));
+            if (indices[i] == -1) throw new RuntimeException("The vertex is not in the graph");
+        }
+        int[][] dist = multiSourceBfs(cg, indices);
+        Map<V, Map<V, Integer>> result = new LinkedHashMap<>();
+        for (int i = 0; i < indices.length; i++) {
+            Map<V, Integer> d = new HashMap<>();
+            for (int w = 0; w < dist[i].length; w++) {
+                if (dist[i][w] != -1) d.put(cg.vertex(w), dist[i][w]);
+            }
+            result.put(sources.get(i), d);
+        }
+        return result;
+    }
+
+    /**
+     * Return an array where dist[i][w] is the number of edges on the shortest path
+     * from vertex sources[i] to vertex w in the specified snapshot, or -1 if there is no path.
+     * Each vertex carries one bit per source (64 sources per long), so a single scan of
+     * the adjacency arrays per level advances all the sources at once.
+     * Pre: The source indices are vertices in the snapshot.
+     */
+    public static int[][] multiSourceBfs(CompactGraph<?> cg, int[] sources) {
+        int n = cg.vertexCount();
+        int words = (sources.length + 63) / 64;
+        int[][] dist = new int[sources.length][n];
+        // The bits of vertex w are stored in [w * words, (w + 1) * words).
+        long[] seen = new long[n * words];
+        long[] visit = new long[n * words];
+        long[] visitNext = new long[n * words];
+        for (int i = 0; i < sources.length; i++) {
+            Arrays.fill(dist[i], -1);
+            dist[i][sources[i]] = 0;
+            seen[sources[i] * words + i / 64] |= 1L << i;
+            visit[sources[i] * words + i / 64] |= 1L << i;
+        }
+
+        boolean active = sources.length > 0;
+        for (int level = 1; active; level++) {
+            for (int u = 0; u < n; u++) {
+                if (isEmpty(visit, u * words, words)) continue;
+                for (int e = cg.offsets[u]; e < cg.offsets[u + 1]; e++) {
+                    int w = cg.targets[e];
+                    for (int k = 0; k < words; k++) {
+                        visitNext[w * words + k] |= visit[u * words + k] & ~seen[w * words + k];
+                    }
+                }
+            }
+
+            active = false;
+            for (int w = 0; w < n; w++) {
+                for (int k = 0; k < words; k++) {
+                    long bits = visitNext[w * words + k];
+                    if (bits == 0) continue;
+                    active = true;
+                    seen[w * words + k] |= bits;
+                    while (bits != 0) {
+                        dist[k * 64 + Long.numberOfTrailingZeros(bits)][w] = level;
+                        bits &= bits - 1;
+                    }
+                }
+            }
+            long[] temp = visit;
+            visit = visitNext;
+            visitNext = temp;
+            Arrays.fill(visitNext, 0);
+        }
+        return dist;
+    }
+
+    private static boolean isEmpty(long[] bits, int from, int length) {
+        for (int k = from; k < from + length; k++) {
+            if (bits[k] != 0) return false;
+        }
+        return true;
+    }
+
+    // Edge density (edges / possible edges) from which mst() uses the matrix-based Prim variant.
+    private static final double DENSE_GRAPH_DENSITY = 0.25;
+    // Marks a missing edge in the weight matrix used by primDense(); edge weights are not negative.
+    private static final int NO_EDGE = -1;
+
     /**
      * Return a minimum spanning tree (MST).
+     * If the graph is not connected, a minimum spanning forest is returned (one tree per component).
+     * Dense graphs are handled by an O(V^2) Prim variant, sparse graphs by Kruskal.
      */
     public static <V> List<Edge<V>> mst(Graph<V> graph) {
+        List<V> vertices = graph.vertices();
+        List<Edge<V>> edges = graph.edges();
+        if (isDense(vertices.size(), edges.size())) return primDense(vertices, edges);
+        return kruskal(vertices, edges);
+    }
+
+    private static boolean isDense(int vertexCount, int edgeCount) {
+        long possibleEdges = (long) vertexCount * (vertexCount - 1) / 2;
+        return possibleEdges > 0 && edgeCount >= DENSE_GRAPH_DENSITY * possibleEdges;
+    }
+
+    private static <V> List<Edge<V>> kruskal(List<V> vertices, List<Edge<V>> edges) {
         List<LinkedHashSet<V>> cSets = new ArrayList<>();
-        for (V vertex : graph.vertices()) {
+        for (V vertex : vertices) {
             cSets.add(new LinkedHashSet<>(List.of(vertex)));
         }
         Queue<Edge<V>> q = new PriorityQueue<>(Comparator.comparingInt(Edge::getWeight));
-        q.addAll(graph.edges());
+        q.addAll(edges);
         List<Edge<V>> t = new ArrayList<>();
-        while (t.size() < graph.vertices().size() - 1) {
+        while (t.size() < vertices.size() - 1 && !q.isEmpty()) {
             Edge<V> e = q.remove();
             V u = e.getU();
             V v = e.getV();
@@ -125,13 +251,123 @@ public class GraphAlgorithms {
         return t;
     }
 
+    /**
+     * Prim's algorithm on a weight matrix: each step picks the cheapest vertex outside the tree
+     * by a linear scan of the key array, then relaxes the keys along that vertex's row.
+     * A vertex with no edge to the tree starts a new tree, so the result is a forest like kruskal()'s.
+     */
+    private static <V> List<Edge<V>> primDense(List<V> vertices, List<Edge<V>> edges) {
+        int n = vertices.size();
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            index.put(vertices.get(i), i);
+        }
+        // weights[i][j] is the weight of the edge between i and j, or NO_EDGE
+        int[][] weights = new int[n][n];
+        for (int[] row : weights) {
+            Arrays.fill(row, NO_EDGE);
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Edge<V>[][] matrix = new Edge[n][n];
+        for (Edge<V> e : edges) {
+            int i = index.get(e.getU());
+            int j = index.get(e.getV());
+            weights[i][j] = e.getWeight();
+            weights[j][i] = e.getWeight();
+            matrix[i][j] = e;
+            matrix[j][i] = e;
+        }
+
+        // key[i] is the weight of the cheapest known edge connecting i to the tree, parent[i] its other end.
+        // key is a long array, so no int weight can be mistaken for "no edge yet".
+        long[] key = new long[n];
+        Arrays.fill(key, Long.MAX_VALUE);
+        int[] parent = new int[n];
+        Arrays.fill(parent, -1);
+        boolean[] inTree = new boolean[n];
+        List<Edge<V>> t = new ArrayList<>();
+        for (int step = 0; step < n; step++) {
+            int u = -1;
+            for (int i = 0; i < n; i++) {
+                if (!inTree[i] && (u == -1 || key[i] < key[u])) u = i;
+            }
+            inTree[u] = true;
+            if (parent[u] != -1) t.add(matrix[parent[u]][u]);
+            int[] row = weights[u];
+            for (int w = 0; w < n; w++) {
+                if (!inTree[w] && row[w] != NO_EDGE && row[w] < key[w]) {
+                    key[w] = row[w];
+                    parent[w] = u;
+                }
+            }
+        }
+        return t;
+    }
+
     /**
      * Return a map containing (vertex, weight) pairs,
      * where weight is the total weight of the shortest path
      * from the specified vertex v to the vertex in the pair.
      */
     public static <V> Map<V, Integer> dijkstra(Graph<V> graph, V v) {
-        // TODO
-        return null;
+        if (!graph.vertices().contains(v)) throw new RuntimeException("The vertex is not in the graph");
+
+        Map<V, Integer> d = new HashMap<>();
+        Set<V> s = new HashSet<>();
+        Queue<Map.Entry<V, Integer>> q = new PriorityQueue<>(Map.Entry.comparingByValue());
+        d.put(v, 0);
+        q.add(Map.entry(v, 0));
+        while (!q.isEmpty()) {
+            Map.Entry<V, Integer> entry = q.remove();
+            V u = entry.getKey();
+            if (!s.add(u)) continue;
+            for (Edge<V> e : graph.incidentEdges(u)) {
+                V w = e.getU().equals(u) ? e.getV() : e.getU();
+                int dw = entry.getValue() + e.getWeight();
+                if (!d.containsKey(w) || dw < d.get(w)) {
+                    d.put(w, dw);
+                    q.add(Map.entry(w, dw));
+                }
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Return the same map as dijkstra(), computed by the parallel delta-stepping algorithm
+     * with a bucket width chosen from the maximum edge weight and the average degree.
+     * Throw exception if the vertex is not in the graph.
+     */
+    public static <V> Map<V, Integer> deltaStepping(Graph<V> graph, V v) {
+        CompactGraph<V> cg = new CompactGraph<>(graph);
+        int maxWeight = 0;
+        for (int weight : cg.weights) {
+            maxWeight = Math.max(maxWeight, weight);
+        }
+        int averageDegree = Math.max(1, cg.weights.length / Math.max(1, cg.vertexCount()));
+        return deltaStepping(cg, v, Math.max(1, maxWeight / averageDegree));
+    }
+
+    /**
+     * Return the same map as dijkstra(), computed by the parallel delta-stepping algorithm
+     * with the specified bucket width.
+     * Throw exception if the vertex is not in the graph.
+     * Pre: delta is positive, and the edge weights are not negative.
+     */
+    public static <V> Map<V, Integer> deltaStepping(Graph<V> graph, V v, int delta) {
+        return deltaStepping(new CompactGraph<>(graph), v, delta);
+    }
+
+    private static <V> Map<V, Integer> deltaStepping(CompactGraph<V> cg, V v, int delta) {
+        int source = cg.indexOf(v);
+        if (source == -1) throw new RuntimeException("The vertex is not in the graph");
+        assert delta > 0;
+
+        int[] dist = DeltaStepping.shortestPaths(cg, source, delta, ForkJoinPool.commonPool());
+        Map<V, Integer> d = new HashMap<>();
+        for (int i = 0; i < dist.length; i++) {
+            if (dist[i] != DeltaStepping.UNREACHED) d.put(cg.vertex(i), dist[i]);
+        }
+        return d;
     }
 }
@@ -0,0 +1,206 @@
+package graphalgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Split of a graph into a number of parts (shards).
+ * Every vertex is owned by exactly one shard. A shard stores the edges of its own vertices,
+ * and the end points owned by other shards are kept as ghost vertices of the shard.
+ */
+public class GraphPartition<V> {
+    // Allowed size of a part in labelPropagation(), relative to the average part size.
+    private static final double BALANCE = 1.05;
+
+    // Snapshot of the partitioned graph.
+    private final CompactGraph<V> cg;
+    // owner[i] is the shard owning vertex i, and localIndex[i] its index in that shard.
+    final int[] owner;
+    final int[] localIndex;
+    // The shards.
+    final List<Shard> shards;
+
+    //-----------------------------------------------------
+
+    /**
+     * Construct a partition of the specified snapshot, where vertex i is owned by shard owner[i].
+     * Pre: 0 <= owner[i] < parts for all i.
+     */
+    public GraphPartition(CompactGraph<V> cg, int[] owner, int parts) {
+        this.cg = cg;
+        this.owner = owner.clone();
+        int n = cg.vertexCount();
+        localIndex = new int[n];
+        int[] sizes = new int[parts];
+        for (int i = 0; i < n; i++) {
+            localIndex[i] = sizes[owner[i]]++;
+        }
+        shards = new ArrayList<>();
+        for (int p = 0; p < parts; p++) {
+            shards.add(new Shard(p, parts, sizes[p]));
+        }
+        for (int i = 0; i < n; i++) {
+            shards.get(owner[i]).owned[localIndex[i]] = i;
+        }
+        for (Shard shard : shards) {
+            shard.buildEdges(cg, this.owner, localIndex);
+        }
+    }
+
+    /** Return a partition of the specified graph into the specified number of parts by hashing the vertices. */
+    public static <V> GraphPartition<V> hash(Graph<V> graph, int parts) {
+        CompactGraph<V> cg = new CompactGraph<>(graph);
+        int[] owner = new int[cg.vertexCount()];
+        for (int i = 0; i < owner.length; i++) {
+            // spread the hash codes, so consecutive integers do not end in consecutive parts
+            owner[i] = Math.floorMod(cg.vertex(i).hashCode() * 0x9E3779B9, parts);
+        }
+        return new GraphPartition<>(cg, owner, parts);
+    }
+
+    /**
+     * Return a partition of the specified graph into the specified number of parts
+     * found by label propagation: starting from contiguous blocks of vertices, each vertex repeatedly
+     * moves to the part holding most of its neighbors, as long as that part is not full.
+     * This keeps the number of edges between parts (the edge cut) low.
+     */
+    public static <V> GraphPartition<V> labelPropagation(Graph<V> graph, int parts, int rounds) {
+        CompactGraph<V> cg = new CompactGraph<>(graph);
+        int n = cg.vertexCount();
+        int capacity = (int) Math.ceil(BALANCE * n / parts);
+        int[] owner = new int[n];
+        int[] sizes = new int[parts];
+        for (int i = 0; i < n; i++) {
+            owner[i] = (int) ((long) i * parts / n);
+            sizes[owner[i]]++;
+        }
+
+        int[] count = new int[parts];
+        boolean moved = true;
+        for (int round = 0; round < rounds && moved; round++) {
+            moved = false;
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < cg.degree(i); j++) {
+                    count[owner[cg.neighbor(i, j)]]++;
+                }
+                int best = owner[i];
+                for (int p = 0; p < parts; p++) {
+                    if (count[p] > count[best] && sizes[p] < capacity) best = p;
+                }
+                if (best != owner[i]) {
+                    sizes[owner[i]]--;
+                    sizes[best]++;
+                    owner[i] = best;
+                    moved = true;
+                }
+                Arrays.fill(count, 0);
+            }
+        }
+        return new GraphPartition<>(cg, owner, parts);
+    }
+
+    /** Return the number of parts. */
+    public int partCount() {
+        return shards.size();
+    }
+
+    /** Return the number of vertices owned by the specified part. */
+    public int partSize(int part) {
+        return shards.get(part).owned.length;
+    }
+
+    /** Return the number of ghost vertices of the specified part. */
+    public int ghostCount(int part) {
+        return shards.get(part).ghosts.length;
+    }
+
+    /** Return the number of edges with end points in different parts. */
+    public int edgeCut() {
+        int cut = 0;
+        for (int i = 0; i < cg.vertexCount(); i++) {
+            for (int j = 0; j < cg.degree(i); j++) {
+                if (owner[cg.neighbor(i, j)] != owner[i]) cut++;
+            }
+        }
+        return cut / 2;
+    }
+
+    /** Return the part owning the specified vertex, or -1 if the vertex is not in the graph. */
+    public int partOf(V v) {
+        int i = cg.indexOf(v);
+        return i == -1 ? -1 : owner[i];
+    }
+
+    CompactGraph<V> snapshot() {
+        return cg;
+    }
+
+    //-----------------------------------------------------
+
+    /**
+     * One part of the partition.
+     * The neighbors of local vertex i are targets[offsets[i]] .. targets[offsets[i + 1] - 1]:
+     * a value t >= 0 is the local index of an owned vertex, and t < 0 is ghost number -t - 1.
+     * Ghost g is vertex ghostRemoteIndex[g] of shard ghostOwner[g], so a worker can address
+     * messages to other shards from the shard alone. The class is static, so a shard holds
+     * no reference to the partition or to the snapshot of the whole graph.
+     */
+    static class Shard {
+        final int id;
+        final int partCount;
+        // Global indices of the owned vertices and of the ghost vertices (for reporting results only).
+        final int[] owned;
+        int[] ghosts;
+        // The shard owning each ghost, and the ghost's local index in that shard.
+        int[] ghostOwner;
+        int[] ghostRemoteIndex;
+        int[] offsets;
+        int[] targets;
+        int[] weights;
+
+        private Shard(int id, int partCount, int size) {
+            this.id = id;
+            this.partCount = partCount;
+            owned = new int[size];
+        }
+
+        private void buildEdges(CompactGraph<?> cg, int[] owner, int[] localIndex) {
+            Map<Integer, Integer> ghostIndex = new HashMap<>();
+            List<Integer> ghostList = new ArrayList<>();
+            offsets = new int[owned.length + 1];
+            for (int i = 0; i < owned.length; i++) {
+                offsets[i + 1] = offsets[i] + cg.degree(owned[i]);
+            }
+            targets = new int[offsets[owned.length]];
+            weights = new int[offsets[owned.length]];
+            for (int i = 0; i < owned.length; i++) {
+                int u = owned[i];
+                for (int j = 0; j < cg.degree(u); j++) {
+                    int w = cg.neighbor(u, j);
+                    if (owner[w] == id) {
+                        targets[offsets[i] + j] = localIndex[w];
+                    } else {
+                        Integer g = ghostIndex.get(w);
+                        if (g == null) {
+                            g = ghostList.size();
+                            ghostIndex.put(w, g);
+                            ghostList.add(w);
+                        }
+                        targets[offsets[i] + j] = -g - 1;
+                    }
+                    weights[offsets[i] + j] = cg.weights[cg.offsets[u] + j];
+                }
+            }
+            ghosts = ghostList.stream().mapToInt(Integer::intValue).toArray();
+            ghostOwner = new int[ghosts.length];
+            ghostRemoteIndex = new int[ghosts.length];
+            for (int g = 0; g < ghosts.length; g++) {
+                ghostOwner[g] = owner[ghosts[g]];
+                ghostRemoteIndex[g] = localIndex[ghosts[g]];
+            }
+        }
+    }
+}
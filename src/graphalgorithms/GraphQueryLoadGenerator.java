@@ -0,0 +1,134 @@
+package graphalgorithms;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load generator for GraphQueryServer.
+ * Sends requests from virtual threads with a bounded number in flight and reports latency percentiles.
+ * main() starts a server on a random graph on localhost and runs a mixed load against it,
+ * once within the server's request limit and once above it.
+ */
+public class GraphQueryLoadGenerator {
+    // Request limit of the server started by main().
+    private static final int MAX_CONCURRENT = 32;
+
+    public static void main(String[] args) throws Exception {
+        int vertexCount = 500;
+        Random random = new Random(42);
+        Graph<Integer> g = new EdgeListGraph<>();
+        for (int v = 0; v < vertexCount; v++) {
+            g.addVertex(v);
+        }
+        for (int v = 1; v < vertexCount; v++) {
+            g.addEdge(random.nextInt(v), v, 1 + random.nextInt(100));
+        }
+        for (int i = 0; i < vertexCount; i++) {
+            int u = random.nextInt(vertexCount);
+            int v = random.nextInt(vertexCount);
+            if (u != v && !g.areAdjacent(u, v)) g.addEdge(u, v, 1 + random.nextInt(100));
+        }
+
+        GraphQueryServer<Integer> server = new GraphQueryServer<>(g, Integer::valueOf, 0, MAX_CONCURRENT);
+        server.start();
+        try {
+            URI base = URI.create("http://localhost:" + server.port());
+            List<String> paths = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                int v = random.nextInt(vertexCount);
+                paths.add("/neighbors?v=" + v);
+                paths.add("/adjacent?u=" + v + "&v=" + random.nextInt(vertexCount));
+                // few distinct sources, so concurrent requests can share a computation
+                paths.add("/dijkstra?v=" + random.nextInt(10));
+            }
+            run(base, paths, 300, MAX_CONCURRENT / 2); // warm-up
+            System.out.println("Within limit: " + run(base, paths, 3000, MAX_CONCURRENT / 2));
+            // more requests in flight than the server admits, so some are rejected with 503
+            System.out.println("Overloaded:   " + run(base, paths, 3000, 8 * MAX_CONCURRENT));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Send the specified number of requests, cycling through the specified paths relative to base,
+     * with at most concurrency requests in flight, and return the latency statistics.
+     * Only requests answered with status 200 count towards the latency percentiles.
+     */
+    public static Result run(URI base, List<String> paths, int requests, int concurrency) throws Exception {
+        long[] latencies = new long[requests];
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        long start = System.nanoTime();
+        try (HttpClient client = HttpClient.newHttpClient();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                HttpRequest httpRequest = HttpRequest.newBuilder(base.resolve(paths.get(i % paths.size()))).build();
+                inFlight.acquire();
+                futures.add(executor.submit(() -> {
+                    try {
+                        long sent = System.nanoTime();
+                        HttpResponse<String> response = client.send(httpRequest, HttpResponse.BodyHandlers.ofString());
+                        long latency = System.nanoTime() - sent;
+                        if (response.statusCode() == 200) {
+                            latencies[succeeded.getAndIncrement()] = latency;
+                        } else if (response.statusCode() == 503) {
+                            rejected.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (IOException | InterruptedException e) {
+                        failed.incrementAndGet();
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long[] successful = Arrays.copyOf(latencies, succeeded.get());
+        Arrays.sort(successful);
+        return new Result(requests, successful.length, rejected.get(), failed.get(), elapsed,
+                percentile(successful, 50), percentile(successful, 99));
+    }
+
+    private static long percentile(long[] sorted, int percent) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    /**
+     * Statistics of a load run; times are in nanoseconds.
+     * Rejected requests were answered with 503 by the server's backpressure limit;
+     * failed requests got another error status or no response at all.
+     * The percentiles cover the succeeded requests only.
+     */
+    public record Result(int requests, int succeeded, int rejected, int failed, long elapsed, long p50, long p99) {
+        @Override
+        public String toString() {
+            return String.format("%d requests (%d succeeded, %d rejected, %d failed) in %.1f ms, "
+                            + "%.0f succeeded/s, p50 %.2f ms, p99 %.2f ms",
+                    requests, succeeded, rejected, failed, elapsed / 1e6, succeeded / (elapsed / 1e9),
+                    p50 / 1e6, p99 / 1e6);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package graphalgorithms;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * Embedded HTTP server answering read-only queries on a graph:
+ * <pre>
+ *   GET /neighbors?v=6
+ *   GET /adjacent?u=6&amp;v=66
+ *   GET /dfs?v=123
+ *   GET /dijkstra?v=123
+ * </pre>
+ * Every request is handled on its own virtual thread. At most maxConcurrent requests are served
+ * at a time; further requests are rejected with status 503 instead of queueing up.
+ * Concurrent dijkstra requests from the same source share a single computation.
+ * The graph must not be modified while the server is running.
+ */
+public class GraphQueryServer<V> {
+    // The graph being queried.
+    private final Graph<V> graph;
+    // The vertices of the graph, for constant-time membership checks.
+    private final Set<V> vertexSet;
+    // Converts a vertex in a query string to a vertex of the graph.
+    private final Function<String, V> parser;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    // Permits for the requests being served.
+    private final Semaphore permits;
+    // Dijkstra computations in progress, by source vertex.
+    private final Map<V, CompletableFuture<Map<V, Integer>>> inFlight = new ConcurrentHashMap<>();
+
+    //-----------------------------------------------------
+
+    /**
+     * Construct a server for the specified graph on the specified port (0 for any free port).
+     * The server is not started.
+     */
+    public GraphQueryServer(Graph<V> graph, Function<String, V> parser, int port, int maxConcurrent)
+            throws IOException {
+        this.graph = graph;
+        vertexSet = new HashSet<>(graph.vertices());
+        this.parser = parser;
+        permits = new Semaphore(maxConcurrent);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(executor);
+        server.createContext("/neighbors", handler(query -> graph.neighbors(vertex(query, "v"))));
+        server.createContext("/adjacent", handler(query -> graph.areAdjacent(vertex(query, "u"), vertex(query, "v"))));
+        server.createContext("/dfs", handler(query -> GraphAlgorithms.dfs(graph, vertex(query, "v"))));
+        server.createContext("/dijkstra", handler(query -> dijkstra(vertex(query, "v"))));
+    }
+
+    /** Start the server. */
+    public void start() {
+        server.start();
+    }
+
+    /** Stop the server, waiting at most the specified number of seconds for requests in progress. */
+    public void stop(int delay) {
+        server.stop(delay);
+        executor.close();
+    }
+
+    /** Return the port the server listens on. */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    //-----------------------------------------------------
+
+    /**
+     * Return the shortest path weights from the specified vertex.
+     * If a computation for the same vertex is already running, wait for its result instead of starting another.
+     * The computation runs in the common fork-join pool, so the virtual thread of the request waits without
+     * holding on to its carrier thread, and other requests are accepted or rejected in the meantime.
+     */
+    private Map<V, Integer> dijkstra(V v) {
+        CompletableFuture<Map<V, Integer>> mine = new CompletableFuture<>();
+        CompletableFuture<Map<V, Integer>> running = inFlight.putIfAbsent(v, mine);
+        if (running != null) return running.join();
+        CompletableFuture.supplyAsync(() -> GraphAlgorithms.dijkstra(graph, v)).whenComplete((d, e) -> {
+            inFlight.remove(v);
+            if (e == null) mine.complete(d);
+            else mine.completeExceptionally(e);
+        });
+        return mine.join();
+    }
+
+    private HttpHandler handler(Function<Map<String, String>, Object> query) {
+        return exchange -> {
+            if (!permits.tryAcquire()) {
+                send(exchange, 503, "Too many requests");
+                return;
+            }
+            try {
+                Object result;
+                try {
+                    result = query.apply(params(exchange));
+                } catch (RuntimeException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    send(exchange, 400, cause.getMessage());
+                    return;
+                }
+                send(exchange, 200, String.valueOf(result));
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = String.valueOf(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static Map<String, String> params(HttpExchange exchange) {
+        Map<String, String> params = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) return params;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private static String param(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) throw new RuntimeException("Missing parameter " + name);
+        return value;
+    }
+
+    /** Return the vertex given by the specified parameter. Throw exception if it is not in the graph. */
+    private V vertex(Map<String, String> query, String name) {
+        V v = parser.apply(param(query, name));
+        if (!vertexSet.contains(v)) throw new RuntimeException("The vertex is not in the graph");
+        return v;
+    }
+}
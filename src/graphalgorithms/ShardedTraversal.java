@@ -0,0 +1,190 @@
+package graphalgorithms;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Breath-First traversal and shortest paths over a partitioned graph.
+ * Each shard is handled by its own worker thread, which only reads its own shard: messages are
+ * addressed by the receiving shard's local vertex index, so only the coordinator uses global indices.
+ * The traversal runs in rounds: every worker runs Dijkstra on its own vertices, starting from
+ * the distances it received, and collects the improved distances of its ghost vertices.
+ * A coordinator then delivers these as one batch per receiving shard, until no distances change.
+ */
+public class ShardedTraversal {
+    // Marks a vertex without a tentative distance.
+    private static final int UNREACHED = Integer.MAX_VALUE;
+
+    /**
+     * Return a map containing (vertex, length) pairs, where length is the number of edges
+     * on the shortest path from the specified vertex v to the vertex in the pair.
+     * Throw exception if the vertex is not in the graph.
+     */
+    public static <V> Map<V, Integer> bfs(GraphPartition<V> partition, V v) {
+        return traverse(partition, v, true);
+    }
+
+    /**
+     * Return the same map as GraphAlgorithms.dijkstra() for the partitioned graph.
+     * Throw exception if the vertex is not in the graph.
+     */
+    public static <V> Map<V, Integer> sssp(GraphPartition<V> partition, V v) {
+        return traverse(partition, v, false);
+    }
+
+    private static <V> Map<V, Integer> traverse(GraphPartition<V> partition, V v, boolean unitWeights) {
+        CompactGraph<V> cg = partition.snapshot();
+        int source = cg.indexOf(v);
+        if (source == -1) throw new RuntimeException("The vertex is not in the graph");
+
+        int parts = partition.partCount();
+        List<Worker> workers = new ArrayList<>();
+        for (GraphPartition.Shard shard : partition.shards) {
+            workers.add(new Worker(shard, unitWeights));
+        }
+        long[][] inboxes = new long[parts][0];
+        inboxes[partition.owner[source]] = new long[] {message(partition.localIndex[source], 0)};
+
+        ExecutorService executor = Executors.newFixedThreadPool(parts);
+        try {
+            while (hasMessages(inboxes)) {
+                List<Callable<long[][]>> steps = new ArrayList<>();
+                for (Worker worker : workers) {
+                    long[] inbox = inboxes[worker.shard.id];
+                    steps.add(() -> worker.step(inbox));
+                }
+                List<long[][]> outboxes = new ArrayList<>();
+                for (Future<long[][]> future : executor.invokeAll(steps)) {
+                    outboxes.add(future.get());
+                }
+                inboxes = deliver(outboxes, parts);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("The traversal was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("A shard worker failed", e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<V, Integer> d = new HashMap<>();
+        for (Worker worker : workers) {
+            for (int i = 0; i < worker.dist.length; i++) {
+                if (worker.dist[i] != UNREACHED) d.put(cg.vertex(worker.shard.owned[i]), worker.dist[i]);
+            }
+        }
+        return d;
+    }
+
+    /**
+     * Encode a distance for the vertex with the specified local index in the receiving shard
+     * as (vertex << 32 | distance).
+     */
+    private static long message(int vertex, int distance) {
+        return (long) vertex << 32 | distance;
+    }
+
+    private static boolean hasMessages(long[][] inboxes) {
+        for (long[] inbox : inboxes) {
+            if (inbox.length > 0) return true;
+        }
+        return false;
+    }
+
+    /** Concatenate the batches sent to each shard into that shard's next inbox. */
+    private static long[][] deliver(List<long[][]> outboxes, int parts) {
+        long[][] inboxes = new long[parts][];
+        for (int p = 0; p < parts; p++) {
+            int size = 0;
+            for (long[][] outbox : outboxes) {
+                size += outbox[p].length;
+            }
+            inboxes[p] = new long[size];
+            int next = 0;
+            for (long[][] outbox : outboxes) {
+                System.arraycopy(outbox[p], 0, inboxes[p], next, outbox[p].length);
+                next += outbox[p].length;
+            }
+        }
+        return inboxes;
+    }
+
+    //-----------------------------------------------------
+
+    /** The state of one shard during a traversal. Only the worker's own thread touches it during a round. */
+    private static class Worker {
+        private final GraphPartition.Shard shard;
+        private final boolean unitWeights;
+        // Tentative distances of the owned vertices, and the smallest distance sent for each ghost.
+        private final int[] dist;
+        private final int[] ghostDist;
+
+        Worker(GraphPartition.Shard shard, boolean unitWeights) {
+            this.shard = shard;
+            this.unitWeights = unitWeights;
+            dist = new int[shard.owned.length];
+            Arrays.fill(dist, UNREACHED);
+            ghostDist = new int[shard.ghosts.length];
+            Arrays.fill(ghostDist, UNREACHED);
+        }
+
+        /**
+         * Apply the received distances, run Dijkstra from the improved vertices,
+         * and return the improved ghost distances as one batch per shard.
+         */
+        long[][] step(long[] inbox) {
+            // queue entries are encoded as (distance << 32 | local index)
+            Queue<Long> q = new PriorityQueue<>();
+            for (long m : inbox) {
+                int local = (int) (m >>> 32);
+                int d = (int) m;
+                if (d < dist[local]) {
+                    dist[local] = d;
+                    q.add((long) d << 32 | local);
+                }
+            }
+
+            List<Integer> changedGhosts = new ArrayList<>();
+            boolean[] changed = new boolean[ghostDist.length];
+            while (!q.isEmpty()) {
+                long entry = q.remove();
+                int u = (int) entry;
+                int du = (int) (entry >>> 32);
+                if (du > dist[u]) continue;
+                for (int k = shard.offsets[u]; k < shard.offsets[u + 1]; k++) {
+                    int dw = du + (unitWeights ? 1 : shard.weights[k]);
+                    int t = shard.targets[k];
+                    if (t >= 0) {
+                        if (dw < dist[t]) {
+                            dist[t] = dw;
+                            q.add((long) dw << 32 | t);
+                        }
+                    } else if (dw < ghostDist[-t - 1]) {
+                        ghostDist[-t - 1] = dw;
+                        if (!changed[-t - 1]) {
+                            changed[-t - 1] = true;
+                            changedGhosts.add(-t - 1);
+                        }
+                    }
+                }
+            }
+
+            int parts = shard.partCount;
+            int[] sizes = new int[parts];
+            for (int g : changedGhosts) {
+                sizes[shard.ghostOwner[g]]++;
+            }
+            long[][] outbox = new long[parts][];
+            for (int p = 0; p < parts; p++) {
+                outbox[p] = new long[sizes[p]];
+            }
+            int[] next = new int[parts];
+            for (int g : changedGhosts) {
+                int p = shard.ghostOwner[g];
+                outbox[p][next[p]++] = message(shard.ghostRemoteIndex[g], ghostDist[g]);
+            }
+            return outbox;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package graphalgorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Vertex orderings that place vertices which are traversed together close to each other.
+ * Pass an ordering to CompactGraph.reordered() to get a snapshot with that memory layout.
+ */
+public class VertexOrdering {
+
+    /** Return the vertices of the specified snapshot sorted by decreasing degree. */
+    public static <V> List<V> degreeOrder(CompactGraph<V> cg) {
+        Integer[] order = indices(cg);
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> cg.degree(i)).reversed());
+        return vertices(cg, order);
+    }
+
+    /**
+     * Return the vertices of the specified snapshot in Breath-First order.
+     * Each component is traversed from its vertex with the lowest index.
+     */
+    public static <V> List<V> bfsOrder(CompactGraph<V> cg) {
+        int n = cg.vertexCount();
+        Integer[] order = new Integer[n];
+        boolean[] visited = new boolean[n];
+        int size = 0;
+        for (int start = 0; start < n; start++) {
+            if (!visited[start]) size = bfs(cg, start, visited, order, size, false);
+        }
+        return vertices(cg, order);
+    }
+
+    /**
+     * Return the vertices of the specified snapshot in reverse Cuthill-McKee order.
+     * Each component is traversed Breath-First from a vertex of minimum degree,
+     * visiting the neighbors of a vertex by increasing degree, and the result is reversed.
+     * This keeps the neighbors of a vertex at nearby indices (a small matrix bandwidth).
+     */
+    public static <V> List<V> reverseCuthillMcKee(CompactGraph<V> cg) {
+        int n = cg.vertexCount();
+        Integer[] byDegree = indices(cg);
+        Arrays.sort(byDegree, Comparator.comparingInt(cg::degree));
+        Integer[] order = new Integer[n];
+        boolean[] visited = new boolean[n];
+        int size = 0;
+        for (int start : byDegree) {
+            if (!visited[start]) size = bfs(cg, start, visited, order, size, true);
+        }
+        List<V> result = vertices(cg, order);
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * Return the bandwidth of the specified snapshot:
+     * the largest index difference between two adjacent vertices.
+     */
+    public static int bandwidth(CompactGraph<?> cg) {
+        int bandwidth = 0;
+        for (int i = 0; i < cg.vertexCount(); i++) {
+            for (int j = 0; j < cg.degree(i); j++) {
+                bandwidth = Math.max(bandwidth, Math.abs(i - cg.neighbor(i, j)));
+            }
+        }
+        return bandwidth;
+    }
+
+    /**
+     * Return the average index difference between two adjacent vertices in the specified snapshot.
+     * The smaller it is, the more often a traversal finds a neighbor's data in a cache line it just read.
+     */
+    public static double averageGap(CompactGraph<?> cg) {
+        long total = 0;
+        for (int i = 0; i < cg.vertexCount(); i++) {
+            for (int j = 0; j < cg.degree(i); j++) {
+                total += Math.abs(i - cg.neighbor(i, j));
+            }
+        }
+        return cg.edgeCount() == 0 ? 0 : (double) total / (2L * cg.edgeCount());
+    }
+
+    //-----------------------------------------------------
+
+    /**
+     * Traverse the component of start Breath-First, appending the visited vertices to order from position size.
+     * If byDegree is true, the unvisited neighbors of a vertex are appended by increasing degree.
+     * Return the new size of order.
+     */
+    private static int bfs(CompactGraph<?> cg, int start, boolean[] visited, Integer[] order, int size,
+                           boolean byDegree) {
+        visited[start] = true;
+        order[size++] = start;
+        for (int head = size - 1; head < size; head++) {
+            int u = order[head];
+            int from = size;
+            for (int j = 0; j < cg.degree(u); j++) {
+                int w = cg.neighbor(u, j);
+                if (!visited[w]) {
+                    visited[w] = true;
+                    order[size++] = w;
+                }
+            }
+            if (byDegree) Arrays.sort(order, from, size, Comparator.comparingInt(cg::degree));
+        }
+        return size;
+    }
+
+    private static Integer[] indices(CompactGraph<?> cg) {
+        Integer[] indices = new Integer[cg.vertexCount()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+        return indices;
+    }
+
+    private static <V> List<V> vertices(CompactGraph<V> cg, Integer[] order) {
+        List<V> vertices = new ArrayList<>();
+        for (int i : order) {
+            vertices.add(cg.vertex(i));
+        }
+        return vertices;
+    }
+}
@@ -0,0 +1,59 @@
+package graphalgorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares traversal times of a grid graph whose vertices were added in random order
+ * with the same graph relabeled by the orderings in VertexOrdering.
+ * Run with a large heap and without -ea, e.g. java -Xmx2g graphalgorithms.VertexOrderingBenchmark
+ */
+public class VertexOrderingBenchmark {
+    private static final int SIDE = 400;
+    private static final int SOURCES = 64;
+    private static final int ROUNDS = 3;
+
+    public static void main(String[] args) {
+        Graph<Integer> g = new EdgeListGraph<>();
+        List<Integer> vertices = new ArrayList<>();
+        for (int i = 0; i < SIDE * SIDE; i++) {
+            vertices.add(i);
+        }
+        Collections.shuffle(vertices, new Random(42));
+        for (int v : vertices) {
+            g.addVertex(v);
+        }
+        for (int row = 0; row < SIDE; row++) {
+            for (int col = 0; col < SIDE; col++) {
+                int v = row * SIDE + col;
+                if (col + 1 < SIDE) g.addEdge(v, v + 1, 1);
+                if (row + 1 < SIDE) g.addEdge(v, v + SIDE, 1);
+            }
+        }
+
+        CompactGraph<Integer> insertion = new CompactGraph<>(g);
+        System.out.printf("%-22s %10s %12s %12s%n", "Ordering", "Bandwidth", "Average gap", "BFS (ms)");
+        run("Insertion order", insertion);
+        run("Degree", insertion.reordered(VertexOrdering.degreeOrder(insertion)));
+        run("Breath-First", insertion.reordered(VertexOrdering.bfsOrder(insertion)));
+        run("Reverse Cuthill-McKee", insertion.reordered(VertexOrdering.reverseCuthillMcKee(insertion)));
+    }
+
+    private static void run(String name, CompactGraph<Integer> cg) {
+        int[] sources = new int[SOURCES];
+        for (int i = 0; i < SOURCES; i++) {
+            sources[i] = cg.indexOf(i * (SIDE * SIDE / SOURCES));
+        }
+        GraphAlgorithms.multiSourceBfs(cg, sources); // warm-up
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            GraphAlgorithms.multiSourceBfs(cg, sources);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        System.out.printf("%-22s %10d %12.1f %12.1f%n", name, VertexOrdering.bandwidth(cg),
+                VertexOrdering.averageGap(cg), best / 1e6);
+    }
+}